@@ -0,0 +1,575 @@
+package br.ucsal.caatinguage.geracao;
+
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.sintatico.Ast;
+import br.ucsal.caatinguage.tabela.SymbolType;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Gera uma classe JVM a partir da Ast, para que o HotSpot compile o programa via JIT.
+ * Mapeamento:
+ *  - variáveis de declarations  -> campos static
+ *  - funções                    -> métodos static (parâmetros e locais em slots da JVM)
+ *  - corpo do programa          -> public static void main(String[])
+ *  - integer/real/character/string/boolean -> long/double/char/String/boolean
+ * Também faz a checagem de tipos (erros semânticos apontam a linha).
+ */
+public class GeradorBytecode {
+
+    private static final String PRINT_STREAM = "java/io/PrintStream";
+
+    private record Variavel(SymbolType tipo, int slot) {
+    }
+
+    private final Ast.Programa programa;
+    private final String nomeInterno;
+    private final String arquivoFonte;
+    private final Map<String, SymbolType> globais = new HashMap<>();
+    private final Map<String, Ast.Funcao> funcoes = new HashMap<>();
+
+    // Estado do método em geração
+    private MethodVisitor mv;
+    private Map<String, Variavel> locais;
+    private int proximoSlot;
+    private SymbolType tipoRetorno;
+    private final Deque<Label> saidasLaco = new ArrayDeque<>();
+    private final Map<Ast.Expressao, SymbolType> tipos = new IdentityHashMap<>();
+
+    /**
+     * @param nomeInterno  nome interno da classe gerada (ex: "Teste" ou "br/ucsal/.../Teste")
+     * @param arquivoFonte nome do arquivo .252 de origem, gravado no atributo SourceFile
+     *                     (aparece nos stack traces de erros em tempo de execução)
+     */
+    public GeradorBytecode(Ast.Programa programa, String nomeInterno, String arquivoFonte) {
+        this.programa = programa;
+        this.nomeInterno = nomeInterno;
+        this.arquivoFonte = arquivoFonte;
+    }
+
+    public byte[] gerar() throws Exception {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            // Só há tipos de referência String/Object; evita carregar a própria classe gerada
+            @Override
+            protected String getCommonSuperClass(String tipo1, String tipo2) {
+                return "java/lang/Object";
+            }
+        };
+        cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, nomeInterno, null, "java/lang/Object", null);
+        cw.visitSource(arquivoFonte, null);
+
+        for (Ast.Declaracao d : programa.globais()) {
+            if (d.tipo() == SymbolType.VOID) {
+                throw erro(d.linha(), "variável '" + d.nome() + "' não pode ser void");
+            }
+            if (globais.putIfAbsent(d.nome(), d.tipo()) != null) {
+                throw erro(d.linha(), "variável '" + d.nome() + "' já declarada");
+            }
+            cw.visitField(ACC_PRIVATE | ACC_STATIC, d.nome(), descritor(d.tipo()), null, null).visitEnd();
+        }
+        for (Ast.Funcao f : programa.funcoes()) {
+            if (funcoes.putIfAbsent(f.nome(), f) != null) {
+                throw erro(f.linha(), "função '" + f.nome() + "' já declarada");
+            }
+        }
+
+        gerarInicializadorEstatico(cw);
+        for (Ast.Funcao f : programa.funcoes()) {
+            gerarFuncao(cw, f);
+        }
+        gerarMain(cw);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    // --- Métodos ---
+
+    // Strings globais começam vazias em vez de null
+    private void gerarInicializadorEstatico(ClassWriter cw) {
+        mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        for (Ast.Declaracao d : programa.globais()) {
+            if (d.tipo() == SymbolType.STRING) {
+                mv.visitLdcInsn("");
+                mv.visitFieldInsn(PUTSTATIC, nomeInterno, d.nome(), descritor(SymbolType.STRING));
+            }
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void gerarFuncao(ClassWriter cw, Ast.Funcao f) throws Exception {
+        mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, f.nome(), descritor(f), null, null);
+        mv.visitCode();
+        iniciarEscopo(f.tipoRetorno(), 0);
+
+        for (Ast.Declaracao p : f.parametros()) {
+            declararLocal(p);
+        }
+        for (Ast.Declaracao l : f.locais()) {
+            Variavel v = declararLocal(l);
+            empilharPadrao(l.tipo());
+            mv.visitVarInsn(opcodeArmazenar(l.tipo()), v.slot());
+        }
+
+        gerarBloco(f.corpo());
+
+        // Retorno implícito ao final (valor padrão do tipo)
+        if (f.tipoRetorno() == SymbolType.VOID) {
+            mv.visitInsn(RETURN);
+        } else {
+            empilharPadrao(f.tipoRetorno());
+            mv.visitInsn(opcodeRetorno(f.tipoRetorno()));
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void gerarMain(ClassWriter cw) throws Exception {
+        mv = cw.visitMethod(ACC_PUBLIC | ACC_STATIC, "main", "([Ljava/lang/String;)V", null, null);
+        mv.visitCode();
+        iniciarEscopo(SymbolType.VOID, 1); // slot 0 = args
+
+        gerarBloco(programa.corpo());
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void iniciarEscopo(SymbolType retorno, int primeiroSlot) {
+        locais = new HashMap<>();
+        proximoSlot = primeiroSlot;
+        tipoRetorno = retorno;
+        saidasLaco.clear();
+        tipos.clear();
+    }
+
+    private Variavel declararLocal(Ast.Declaracao d) throws Exception {
+        if (d.tipo() == SymbolType.VOID) {
+            throw erro(d.linha(), "variável '" + d.nome() + "' não pode ser void");
+        }
+        Variavel v = new Variavel(d.tipo(), proximoSlot);
+        if (locais.putIfAbsent(d.nome(), v) != null) {
+            throw erro(d.linha(), "variável '" + d.nome() + "' já declarada");
+        }
+        proximoSlot += tamanhoSlot(d.tipo());
+        return v;
+    }
+
+    // --- Comandos ---
+
+    private void gerarBloco(List<Ast.Comando> comandos) throws Exception {
+        for (Ast.Comando c : comandos) {
+            gerarComando(c);
+        }
+    }
+
+    private void gerarComando(Ast.Comando comando) throws Exception {
+        Label linha = new Label();
+        mv.visitLabel(linha);
+        mv.visitLineNumber(comando.linha(), linha);
+
+        if (comando instanceof Ast.Atribuicao a) {
+            Variavel local = locais.get(a.nome());
+            if (local != null) {
+                gerarExpressaoComo(a.valor(), local.tipo());
+                mv.visitVarInsn(opcodeArmazenar(local.tipo()), local.slot());
+            } else {
+                SymbolType tipo = tipoGlobal(a.nome(), a.linha());
+                gerarExpressaoComo(a.valor(), tipo);
+                mv.visitFieldInsn(PUTSTATIC, nomeInterno, a.nome(), descritor(tipo));
+            }
+        } else if (comando instanceof Ast.ChamadaComando c) {
+            SymbolType tipo = gerarChamada(c.chamada());
+            if (tipo != SymbolType.VOID) {
+                mv.visitInsn(tamanhoSlot(tipo) == 2 ? POP2 : POP);
+            }
+        } else if (comando instanceof Ast.Se s) {
+            Label senao = new Label();
+            Label fim = new Label();
+            gerarExpressaoComo(s.condicao(), SymbolType.BOOLEAN);
+            mv.visitJumpInsn(IFEQ, senao);
+            gerarBloco(s.entao());
+            mv.visitJumpInsn(GOTO, fim);
+            mv.visitLabel(senao);
+            gerarBloco(s.senao());
+            mv.visitLabel(fim);
+        } else if (comando instanceof Ast.Enquanto e) {
+            Label teste = new Label();
+            Label fim = new Label();
+            mv.visitLabel(teste);
+            gerarExpressaoComo(e.condicao(), SymbolType.BOOLEAN);
+            mv.visitJumpInsn(IFEQ, fim);
+            saidasLaco.push(fim);
+            gerarBloco(e.corpo());
+            saidasLaco.pop();
+            mv.visitJumpInsn(GOTO, teste);
+            mv.visitLabel(fim);
+        } else if (comando instanceof Ast.Pare p) {
+            if (saidasLaco.isEmpty()) {
+                throw erro(p.linha(), "break fora de while");
+            }
+            mv.visitJumpInsn(GOTO, saidasLaco.peek());
+        } else if (comando instanceof Ast.Retorne r) {
+            if (r.valor() == null) {
+                if (tipoRetorno != SymbolType.VOID) {
+                    throw erro(r.linha(), "return sem valor em função que retorna " + tipoRetorno.getCode());
+                }
+                mv.visitInsn(RETURN);
+            } else {
+                if (tipoRetorno == SymbolType.VOID) {
+                    throw erro(r.linha(), "return com valor em função void");
+                }
+                gerarExpressaoComo(r.valor(), tipoRetorno);
+                mv.visitInsn(opcodeRetorno(tipoRetorno));
+            }
+        } else if (comando instanceof Ast.Imprima i) {
+            for (Ast.Expressao valor : i.valores()) {
+                mv.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "L" + PRINT_STREAM + ";");
+                SymbolType tipo = gerarExpressao(valor);
+                mv.visitMethodInsn(INVOKEVIRTUAL, PRINT_STREAM, "print", "(" + descritor(tipo) + ")V", false);
+            }
+            mv.visitFieldInsn(GETSTATIC, "java/lang/System", "out", "L" + PRINT_STREAM + ";");
+            mv.visitMethodInsn(INVOKEVIRTUAL, PRINT_STREAM, "println", "()V", false);
+        }
+    }
+
+    // --- Expressões ---
+
+    private void gerarExpressaoComo(Ast.Expressao expressao, SymbolType alvo) throws Exception {
+        SymbolType tipo = gerarExpressao(expressao);
+        converter(tipo, alvo, expressao.linha());
+    }
+
+    /**
+     * Empilha o valor da expressão e devolve o seu tipo (calculado por tipoDe).
+     */
+    private SymbolType gerarExpressao(Ast.Expressao expressao) throws Exception {
+        SymbolType tipo = tipoDe(expressao);
+
+        if (expressao instanceof Ast.LiteralInteiro l) {
+            mv.visitLdcInsn(l.valor());
+        } else if (expressao instanceof Ast.LiteralReal l) {
+            mv.visitLdcInsn(l.valor());
+        } else if (expressao instanceof Ast.LiteralTexto l) {
+            mv.visitLdcInsn(l.valor());
+        } else if (expressao instanceof Ast.LiteralCaractere l) {
+            mv.visitLdcInsn((int) l.valor());
+        } else if (expressao instanceof Ast.LiteralBooleano l) {
+            mv.visitInsn(l.valor() ? ICONST_1 : ICONST_0);
+        } else if (expressao instanceof Ast.Variavel v) {
+            Variavel local = locais.get(v.nome());
+            if (local != null) {
+                mv.visitVarInsn(opcodeCarregar(tipo), local.slot());
+            } else {
+                mv.visitFieldInsn(GETSTATIC, nomeInterno, v.nome(), descritor(tipo));
+            }
+        } else if (expressao instanceof Ast.Chamada c) {
+            if (tipo == SymbolType.VOID) {
+                throw erro(c.linha(), "função void '" + c.nome() + "' usada em expressão");
+            }
+            gerarChamada(c);
+        } else if (expressao instanceof Ast.Negacao n) {
+            gerarExpressaoComo(n.operando(), tipo);
+            mv.visitInsn(tipo == SymbolType.REAL ? DNEG : LNEG);
+        } else if (expressao instanceof Ast.Binaria b) {
+            if (ehRelacional(b.operador())) {
+                gerarRelacional(b);
+            } else {
+                gerarAritmetica(b, tipo);
+            }
+        }
+        return tipo;
+    }
+
+    private SymbolType gerarChamada(Ast.Chamada c) throws Exception {
+        Ast.Funcao f = funcao(c);
+        if (f.parametros().size() != c.argumentos().size()) {
+            throw erro(c.linha(), "função '" + c.nome() + "' espera "
+                    + f.parametros().size() + " argumento(s)");
+        }
+        for (int i = 0; i < c.argumentos().size(); i++) {
+            gerarExpressaoComo(c.argumentos().get(i), f.parametros().get(i).tipo());
+        }
+        mv.visitMethodInsn(INVOKESTATIC, nomeInterno, f.nome(), descritor(f), false);
+        return f.tipoRetorno();
+    }
+
+    private void gerarAritmetica(Ast.Binaria b, SymbolType tipo) throws Exception {
+        // Concatenação: "+" com ao menos um operando string
+        if (tipo == SymbolType.STRING) {
+            gerarComoTexto(b.esquerda());
+            gerarComoTexto(b.direita());
+            mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "concat",
+                    "(Ljava/lang/String;)Ljava/lang/String;", false);
+            return;
+        }
+
+        gerarExpressaoComo(b.esquerda(), tipo);
+        gerarExpressaoComo(b.direita(), tipo);
+        boolean real = tipo == SymbolType.REAL;
+        switch (b.operador()) {
+            case PLUS:    mv.visitInsn(real ? DADD : LADD); break;
+            case MINUS:   mv.visitInsn(real ? DSUB : LSUB); break;
+            case STAR:    mv.visitInsn(real ? DMUL : LMUL); break;
+            case SLASH:   mv.visitInsn(real ? DDIV : LDIV); break;
+            case PERCENT: mv.visitInsn(real ? DREM : LREM); break;
+            default:      throw erro(b.linha(), "operador inválido " + b.operador());
+        }
+    }
+
+    private void gerarComoTexto(Ast.Expressao expressao) throws Exception {
+        SymbolType tipo = gerarExpressao(expressao);
+        if (tipo != SymbolType.STRING) {
+            mv.visitMethodInsn(INVOKESTATIC, "java/lang/String", "valueOf",
+                    "(" + descritor(tipo) + ")Ljava/lang/String;", false);
+        }
+    }
+
+    private void gerarRelacional(Ast.Binaria b) throws Exception {
+        SymbolType tipo = tipoComparacao(b);
+        TokenType op = b.operador();
+        Label verdadeiro = new Label();
+        Label fim = new Label();
+
+        gerarExpressaoComo(b.esquerda(), tipo);
+        gerarExpressaoComo(b.direita(), tipo);
+        switch (tipo) {
+            case STRING:
+                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/String", "compareTo",
+                        "(Ljava/lang/String;)I", false);
+                mv.visitJumpInsn(saltoContraZero(op), verdadeiro);
+                break;
+            case BOOLEAN:
+                mv.visitJumpInsn(op == TokenType.EQ ? IF_ICMPEQ : IF_ICMPNE, verdadeiro);
+                break;
+            case REAL:
+                // NaN torna < e <= falsos com DCMPG, > e >= falsos com DCMPL
+                mv.visitInsn(op == TokenType.LT || op == TokenType.LE ? DCMPG : DCMPL);
+                mv.visitJumpInsn(saltoContraZero(op), verdadeiro);
+                break;
+            default:
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(saltoContraZero(op), verdadeiro);
+                break;
+        }
+
+        mv.visitInsn(ICONST_0);
+        mv.visitJumpInsn(GOTO, fim);
+        mv.visitLabel(verdadeiro);
+        mv.visitInsn(ICONST_1);
+        mv.visitLabel(fim);
+    }
+
+    // --- Tipos ---
+
+    /**
+     * Tipo de uma expressão, sem gerar código. Único lugar com as regras de tipagem;
+     * memorizado por nó para que cada subárvore seja tipada uma só vez (geração em O(n)).
+     */
+    private SymbolType tipoDe(Ast.Expressao expressao) throws Exception {
+        SymbolType tipo = tipos.get(expressao);
+        if (tipo == null) {
+            tipo = calcularTipo(expressao);
+            tipos.put(expressao, tipo);
+        }
+        return tipo;
+    }
+
+    private SymbolType calcularTipo(Ast.Expressao expressao) throws Exception {
+        if (expressao instanceof Ast.LiteralInteiro) return SymbolType.INTEGER;
+        if (expressao instanceof Ast.LiteralReal) return SymbolType.REAL;
+        if (expressao instanceof Ast.LiteralTexto) return SymbolType.STRING;
+        if (expressao instanceof Ast.LiteralCaractere) return SymbolType.CHARACTER;
+        if (expressao instanceof Ast.LiteralBooleano) return SymbolType.BOOLEAN;
+        if (expressao instanceof Ast.Variavel v) {
+            Variavel local = locais.get(v.nome());
+            return local != null ? local.tipo() : tipoGlobal(v.nome(), v.linha());
+        }
+        if (expressao instanceof Ast.Chamada c) {
+            return funcao(c).tipoRetorno();
+        }
+        if (expressao instanceof Ast.Negacao n) {
+            return tipoNumerico(tipoDe(n.operando()), n.linha());
+        }
+        Ast.Binaria b = (Ast.Binaria) expressao;
+        if (ehRelacional(b.operador())) {
+            tipoComparacao(b);
+            return SymbolType.BOOLEAN;
+        }
+        SymbolType esquerda = tipoDe(b.esquerda());
+        SymbolType direita = tipoDe(b.direita());
+        if (b.operador() == TokenType.PLUS
+                && (esquerda == SymbolType.STRING || direita == SymbolType.STRING)) {
+            return SymbolType.STRING;
+        }
+        return tipoComum(esquerda, direita, b.linha());
+    }
+
+    /**
+     * Tipo para o qual os dois operandos de uma comparação são convertidos:
+     * STRING (compareTo), BOOLEAN (só == e !=) ou o tipo numérico comum.
+     */
+    private SymbolType tipoComparacao(Ast.Binaria b) throws Exception {
+        SymbolType esquerda = tipoDe(b.esquerda());
+        SymbolType direita = tipoDe(b.direita());
+        if (esquerda == SymbolType.STRING && direita == SymbolType.STRING) {
+            return SymbolType.STRING;
+        }
+        if (esquerda == SymbolType.BOOLEAN && direita == SymbolType.BOOLEAN) {
+            TokenType op = b.operador();
+            if (op != TokenType.EQ && op != TokenType.NEQ && op != TokenType.HASH) {
+                throw erro(b.linha(), "booleanos só admitem == e !=");
+            }
+            return SymbolType.BOOLEAN;
+        }
+        return tipoComum(esquerda, direita, b.linha());
+    }
+
+    private Ast.Funcao funcao(Ast.Chamada c) throws Exception {
+        Ast.Funcao f = funcoes.get(c.nome());
+        if (f == null) {
+            throw erro(c.linha(), "função '" + c.nome() + "' não declarada");
+        }
+        return f;
+    }
+
+    private SymbolType tipoGlobal(String nome, int linha) throws Exception {
+        SymbolType tipo = globais.get(nome);
+        if (tipo == null) {
+            throw erro(linha, "variável '" + nome + "' não declarada");
+        }
+        return tipo;
+    }
+
+    // character participa de contas como integer
+    private SymbolType tipoNumerico(SymbolType tipo, int linha) throws Exception {
+        switch (tipo) {
+            case INTEGER:
+            case CHARACTER:
+                return SymbolType.INTEGER;
+            case REAL:
+                return SymbolType.REAL;
+            default:
+                throw erro(linha, "operando numérico esperado, encontrado " + tipo.getCode());
+        }
+    }
+
+    private SymbolType tipoComum(SymbolType a, SymbolType b, int linha) throws Exception {
+        SymbolType na = tipoNumerico(a, linha);
+        SymbolType nb = tipoNumerico(b, linha);
+        return na == SymbolType.REAL || nb == SymbolType.REAL ? SymbolType.REAL : SymbolType.INTEGER;
+    }
+
+    private void converter(SymbolType de, SymbolType para, int linha) throws Exception {
+        if (de == para) {
+            return;
+        }
+        if (de == SymbolType.INTEGER && para == SymbolType.REAL) {
+            mv.visitInsn(L2D);
+        } else if (de == SymbolType.CHARACTER && para == SymbolType.INTEGER) {
+            mv.visitInsn(I2L);
+        } else if (de == SymbolType.CHARACTER && para == SymbolType.REAL) {
+            mv.visitInsn(I2D);
+        } else {
+            throw erro(linha, "tipos incompatíveis: " + de.getCode() + " -> " + para.getCode());
+        }
+    }
+
+    private static boolean ehRelacional(TokenType op) {
+        switch (op) {
+            case EQ: case NEQ: case HASH: case LT: case LE: case GT: case GE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int saltoContraZero(TokenType op) {
+        switch (op) {
+            case EQ: return IFEQ;
+            case LT: return IFLT;
+            case LE: return IFLE;
+            case GT: return IFGT;
+            case GE: return IFGE;
+            default: return IFNE; // NEQ e HASH
+        }
+    }
+
+    private void empilharPadrao(SymbolType tipo) {
+        switch (tipo) {
+            case INTEGER: mv.visitInsn(LCONST_0); break;
+            case REAL:    mv.visitInsn(DCONST_0); break;
+            case STRING:  mv.visitLdcInsn(""); break;
+            default:      mv.visitInsn(ICONST_0); break; // character e boolean
+        }
+    }
+
+    private static String descritor(SymbolType tipo) {
+        switch (tipo) {
+            case INTEGER:   return "J";
+            case REAL:      return "D";
+            case CHARACTER: return "C";
+            case STRING:    return "Ljava/lang/String;";
+            case BOOLEAN:   return "Z";
+            case VOID:      return "V";
+            default:        throw new IllegalArgumentException("Tipo sem descritor: " + tipo);
+        }
+    }
+
+    private static String descritor(Ast.Funcao f) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Ast.Declaracao p : f.parametros()) {
+            sb.append(descritor(p.tipo()));
+        }
+        return sb.append(')').append(descritor(f.tipoRetorno())).toString();
+    }
+
+    private static int tamanhoSlot(SymbolType tipo) {
+        return tipo == SymbolType.INTEGER || tipo == SymbolType.REAL ? 2 : 1;
+    }
+
+    private static int opcodeCarregar(SymbolType tipo) {
+        switch (tipo) {
+            case INTEGER: return LLOAD;
+            case REAL:    return DLOAD;
+            case STRING:  return ALOAD;
+            default:      return ILOAD;
+        }
+    }
+
+    private static int opcodeArmazenar(SymbolType tipo) {
+        switch (tipo) {
+            case INTEGER: return LSTORE;
+            case REAL:    return DSTORE;
+            case STRING:  return ASTORE;
+            default:      return ISTORE;
+        }
+    }
+
+    private static int opcodeRetorno(SymbolType tipo) {
+        switch (tipo) {
+            case INTEGER: return LRETURN;
+            case REAL:    return DRETURN;
+            case STRING:  return ARETURN;
+            default:      return IRETURN;
+        }
+    }
+
+    private static Exception erro(int linha, String mensagem) {
+        return new Exception("Erro semântico na linha " + linha + ": " + mensagem);
+    }
+}
@@ -0,0 +1,135 @@
+package br.ucsal.caatinguage.geracao;
+
+import br.ucsal.caatinguage.lexico.Lexer;
+import br.ucsal.caatinguage.sintatico.Ast;
+import br.ucsal.caatinguage.sintatico.Parser;
+import br.ucsal.caatinguage.tabela.SimboloManager;
+
+import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+
+/**
+ * Compila um programa .252 para bytecode JVM.
+ * Uso:
+ *  MainCompilador Teste.252          -> compila e executa em memória
+ *  MainCompilador Teste.252 -o dir   -> grava dir/NOME.class (executável com "java -cp dir NOME")
+ * Erros de compilação e erros do programa em execução são informados separadamente.
+ */
+public class MainCompilador {
+
+    public static void main(String[] args) {
+        try {
+            new MainCompilador().run(args);
+        } catch (Exception e) {
+            System.err.println("Erro na execução do compilador: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public void run(String[] args) throws Exception {
+        if (args != null && args.length > 1
+                && (args.length != 3 || !args[1].equals("-o"))) {
+            System.err.println("Uso: MainCompilador <arquivo.252> [-o <diretorio>]");
+            return;
+        }
+
+        String fileName = (args != null && args.length > 0)
+                ? args[0]
+                : askFileNameFromUser();
+
+        if (fileName == null || fileName.isBlank()) {
+            System.err.println("Nenhum arquivo .252 informado.");
+            return;
+        }
+
+        File sourceFile = new File(fileName);
+        if (!sourceFile.exists()) {
+            System.err.println("Arquivo não encontrado: " + sourceFile.getAbsolutePath());
+            return;
+        }
+
+        Ast.Programa programa = analisar(sourceFile);
+
+        if (args != null && args.length == 3) {
+            Path destino = gravar(programa, sourceFile.getName(), Path.of(args[2]));
+            System.out.println("Compilação concluída. Arquivo gerado: " + destino);
+        } else {
+            Class<?> classe = carregar(programa, sourceFile.getName());
+            try {
+                executar(classe, new String[0]);
+            } catch (Throwable e) {
+                // Falha do programa compilado, não do compilador
+                System.err.println("Erro em tempo de execução do programa: " + e);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public Ast.Programa analisar(File sourceFile) throws Exception {
+        try (Reader reader = new InputStreamReader(
+                new FileInputStream(sourceFile), StandardCharsets.UTF_8)) {
+            return analisar(reader);
+        }
+    }
+
+    public Ast.Programa analisar(Reader reader) throws Exception {
+        try (Lexer lexer = new Lexer(reader, new SimboloManager())) {
+            return new Parser(lexer).analisarPrograma();
+        }
+    }
+
+    /**
+     * Grava a classe em diretorio/NOME.class, no pacote padrão.
+     */
+    public Path gravar(Ast.Programa programa, String arquivoFonte, Path diretorio) throws Exception {
+        byte[] bytecode = new GeradorBytecode(programa, programa.nome(), arquivoFonte).gerar();
+        Files.createDirectories(diretorio);
+        Path destino = diretorio.resolve(programa.nome() + ".class");
+        Files.write(destino, bytecode);
+        return destino;
+    }
+
+    /**
+     * Gera a classe e a define nesta JVM por um ClassLoader descartável, como classe
+     * comum do pacote padrão: o JIT otimiza o código normalmente e os rastros de
+     * pilha mostram as linhas do arquivo .252. Erros semânticos saem daqui.
+     */
+    public Class<?> carregar(Ast.Programa programa, String arquivoFonte) throws Exception {
+        byte[] bytecode = new GeradorBytecode(programa, programa.nome(), arquivoFonte).gerar();
+        return new CarregadorPrograma().definir(programa.nome(), bytecode);
+    }
+
+    /**
+     * Invoca o main da classe carregada; exceções lançadas pelo programa
+     * (ex: divisão por zero) são repassadas sem embrulho.
+     */
+    public void executar(Class<?> classe, String[] args) throws Throwable {
+        MethodHandle main = MethodHandles.publicLookup().findStatic(classe, "main",
+                MethodType.methodType(void.class, String[].class));
+        main.invokeExact(args);
+    }
+
+    private String askFileNameFromUser() {
+        System.out.print("Informe o nome do arquivo fonte (.252): ");
+        Scanner scanner = new Scanner(System.in);
+        return scanner.nextLine().trim();
+    }
+
+    // Um carregador por programa: a classe é descartada junto com ele
+    private static class CarregadorPrograma extends ClassLoader {
+
+        CarregadorPrograma() {
+            super(MainCompilador.class.getClassLoader());
+        }
+
+        Class<?> definir(String nome, byte[] bytecode) {
+            return defineClass(nome, bytecode, 0, bytecode.length);
+        }
+    }
+}
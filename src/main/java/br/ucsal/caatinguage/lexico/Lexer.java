@@ -1,5 +1,7 @@
 package br.ucsal.caatinguage.lexico;
 
+import br.ucsal.caatinguage.tabela.LiteralEntry;
+import br.ucsal.caatinguage.tabela.LiteralManager;
 import br.ucsal.caatinguage.tabela.SimboloManager;
 
 import java.io.IOException;
@@ -8,16 +10,34 @@ import java.io.Reader;
 public class Lexer implements AutoCloseable {
     private final Reader reader;
     private final SimboloManager tabela;
+    private final LiteralManager literais;
+    private final StringBuilder bufferLiteral = new StringBuilder(); // Reaproveitado entre literais
     private int linhaAtual = 1;
     private int colunaAtual = 0;
     private int nextChar = -1; // Buffer de lookahead
 
     public Lexer(Reader reader, SimboloManager tabela) throws IOException {
+        this(reader, tabela, new LiteralManager());
+    }
+
+    public Lexer(Reader reader, SimboloManager tabela, LiteralManager literais) throws IOException {
         this.reader = reader;
         this.tabela = tabela;
+        this.literais = literais;
         lerCaractere(); // Inicializa o buffer
     }
 
+    public LiteralManager getLiterais() {
+        return literais;
+    }
+
+    // Registra o literal acumulado em bufferLiteral e devolve o token com o lexema canônico
+    // e a entrada da tabela (valor já convertido)
+    private Token tokenLiteral(TokenType tipo) {
+        LiteralEntry literal = literais.registrar(tipo, bufferLiteral, linhaAtual);
+        return new Token(tipo, literal.getLexeme(), linhaAtual, colunaAtual, literal);
+    }
+
     private void lerCaractere() throws IOException {
         nextChar = reader.read();
         colunaAtual++;
@@ -104,7 +124,8 @@ public class Lexer implements AutoCloseable {
 
             // 4. Números (Inteiros e Reais)
             if (Character.isDigit(c)) {
-                StringBuilder sb = new StringBuilder();
+                StringBuilder sb = bufferLiteral;
+                sb.setLength(0);
                 while (Character.isDigit((char) nextChar)) {
                     sb.append((char) nextChar);
                     lerCaractere();
@@ -130,14 +151,15 @@ public class Lexer implements AutoCloseable {
                             lerCaractere();
                         }
                     }
-                    return new Token(TokenType.REAL_CONST, sb.toString(), linhaAtual, colunaAtual);
+                    return tokenLiteral(TokenType.REAL_CONST);
                 }
-                return new Token(TokenType.INT_CONST, sb.toString(), linhaAtual, colunaAtual);
+                return tokenLiteral(TokenType.INT_CONST);
             }
 
             // 5. Strings ("...")
             if (c == '"') {
-                StringBuilder sb = new StringBuilder();
+                StringBuilder sb = bufferLiteral;
+                sb.setLength(0);
                 sb.append(c);
                 lerCaractere();
                 while (nextChar != '"' && nextChar != -1 && nextChar != '\n') {
@@ -147,7 +169,7 @@ public class Lexer implements AutoCloseable {
                 if (nextChar == '"') {
                     sb.append('"');
                     lerCaractere();
-                    return new Token(TokenType.STRING_CONST, sb.toString(), linhaAtual, colunaAtual);
+                    return tokenLiteral(TokenType.STRING_CONST);
                 } else {
                     throw new Exception("String não fechada na linha " + linhaAtual);
                 }
@@ -155,7 +177,8 @@ public class Lexer implements AutoCloseable {
 
             // 6. Caractere ('...')
             if (c == '\'') {
-                StringBuilder sb = new StringBuilder();
+                StringBuilder sb = bufferLiteral;
+                sb.setLength(0);
                 sb.append(c);
                 lerCaractere(); // Lê o conteúdo
                 if (nextChar != -1 && nextChar != '\'') {
@@ -165,7 +188,7 @@ public class Lexer implements AutoCloseable {
                 if (nextChar == '\'') {
                     sb.append('\'');
                     lerCaractere();
-                    return new Token(TokenType.CHAR_CONST, sb.toString(), linhaAtual, colunaAtual);
+                    return tokenLiteral(TokenType.CHAR_CONST);
                 } else {
                     throw new Exception("Caractere mal formado na linha " + linhaAtual);
                 }
@@ -1,17 +1,25 @@
 package br.ucsal.caatinguage.lexico;
 
+import br.ucsal.caatinguage.tabela.LiteralEntry;
+
 public class Token {
 
     private final TokenType type;
     private final String lexeme;
     private final int line;
     private final int column;
+    private final LiteralEntry literal;   // null quando o token não é literal
 
     public Token(TokenType type, String lexeme, int line, int column) {
+        this(type, lexeme, line, column, null);
+    }
+
+    public Token(TokenType type, String lexeme, int line, int column, LiteralEntry literal) {
         this.type = type;
         this.lexeme = lexeme;
         this.line = line;
         this.column = column;
+        this.literal = literal;
     }
 
     public TokenType getType() {
@@ -29,4 +37,8 @@ public class Token {
     public int getColumn() {
         return column;
     }
+
+    public LiteralEntry getLiteral() {
+        return literal;
+    }
 }
@@ -0,0 +1,104 @@
+package br.ucsal.caatinguage.sintatico;
+
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.SymbolType;
+
+import java.util.List;
+
+/**
+ * Árvore sintática abstrata produzida pelo Parser e consumida pelo gerador de bytecode.
+ * Os nomes (variáveis, funções, programa) já vêm em maiúsculas e truncados, como no Lexer.
+ */
+public final class Ast {
+
+    private Ast() {
+    }
+
+    // --- Estrutura do programa ---
+
+    public record Programa(String nome,
+                           List<Declaracao> globais,
+                           List<Funcao> funcoes,
+                           List<Comando> corpo) {
+    }
+
+    public record Declaracao(SymbolType tipo, String nome, int linha) {
+    }
+
+    public record Funcao(SymbolType tipoRetorno,
+                         String nome,
+                         List<Declaracao> parametros,
+                         List<Declaracao> locais,
+                         List<Comando> corpo,
+                         int linha) {
+    }
+
+    // --- Comandos ---
+
+    public sealed interface Comando
+            permits Atribuicao, ChamadaComando, Se, Enquanto, Pare, Retorne, Imprima {
+        int linha();
+    }
+
+    public record Atribuicao(String nome, Expressao valor, int linha) implements Comando {
+    }
+
+    public record ChamadaComando(Chamada chamada) implements Comando {
+        @Override
+        public int linha() {
+            return chamada.linha();
+        }
+    }
+
+    public record Se(Expressao condicao, List<Comando> entao, List<Comando> senao, int linha) implements Comando {
+    }
+
+    public record Enquanto(Expressao condicao, List<Comando> corpo, int linha) implements Comando {
+    }
+
+    public record Pare(int linha) implements Comando {
+    }
+
+    /** valor é null em "return;" */
+    public record Retorne(Expressao valor, int linha) implements Comando {
+    }
+
+    public record Imprima(List<Expressao> valores, int linha) implements Comando {
+    }
+
+    // --- Expressões ---
+
+    public sealed interface Expressao
+            permits LiteralInteiro, LiteralReal, LiteralTexto, LiteralCaractere, LiteralBooleano,
+            Variavel, Chamada, Binaria, Negacao {
+        int linha();
+    }
+
+    public record LiteralInteiro(long valor, int linha) implements Expressao {
+    }
+
+    public record LiteralReal(double valor, int linha) implements Expressao {
+    }
+
+    public record LiteralTexto(String valor, int linha) implements Expressao {
+    }
+
+    public record LiteralCaractere(char valor, int linha) implements Expressao {
+    }
+
+    public record LiteralBooleano(boolean valor, int linha) implements Expressao {
+    }
+
+    public record Variavel(String nome, int linha) implements Expressao {
+    }
+
+    public record Chamada(String nome, List<Expressao> argumentos, int linha) implements Expressao {
+    }
+
+    /** operador: PLUS, MINUS, STAR, SLASH, PERCENT, EQ, NEQ/HASH, LT, LE, GT, GE */
+    public record Binaria(TokenType operador, Expressao esquerda, Expressao direita, int linha) implements Expressao {
+    }
+
+    public record Negacao(Expressao operando, int linha) implements Expressao {
+    }
+}
@@ -3,6 +3,8 @@ package br.ucsal.caatinguage.sintatico;
 import br.ucsal.caatinguage.lexico.Lexer;
 import br.ucsal.caatinguage.lexico.Token;
 import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.LiteralEntry;
+import br.ucsal.caatinguage.tabela.LiteralManager;
 import br.ucsal.caatinguage.tabela.SimboloManager;
 
 import java.io.*;
@@ -40,10 +42,12 @@ public class MainStaticChecker {
         String baseName = stripExtension(sourceFile.getName());
 
         SimboloManager simbolos = new SimboloManager();
+        LiteralManager literais = new LiteralManager();
+        TipagemDeclaracoes tipagem = new TipagemDeclaracoes(simbolos);
 
         try (Reader reader = new InputStreamReader(
                 new FileInputStream(sourceFile), StandardCharsets.UTF_8);
-             Lexer lexer = new Lexer(reader, simbolos)) {
+             Lexer lexer = new Lexer(reader, simbolos, literais)) {
 
             Path lexPath = Path.of(baseName + ".LEX");
             try (PrintWriter lexOut = new PrintWriter(
@@ -55,6 +59,9 @@ public class MainStaticChecker {
                     Token token = lexer.proximoToken();
                     TokenType type = token.getType();
 
+                    // Tipagem na mesma passada: preenche SymbolType assim que o token é lido
+                    tipagem.observar(token);
+
                     lexOut.printf("%s\t%s\t%d%n",
                             type.getCodigo(),          // PRSxx / IDNxx / SRSxx
                             token.getLexeme(),
@@ -68,10 +75,20 @@ public class MainStaticChecker {
 
             // Gera .TAB com base na tabela de símbolos interna do SimboloManager
             simbolos.gerarArquivoTAB(baseName);
+
+            // Gera .LIT com os literais deduplicados e seus valores convertidos
+            literais.gerarArquivoLIT(baseName);
+        }
+
+        for (LiteralEntry literal : literais.getEntradas()) {
+            if (literal.isEstouro()) {
+                System.err.println("Aviso: literal fora do intervalo representável: "
+                        + literal.getLexeme() + " (linhas " + literal.getLinhasFormatadas() + ")");
+            }
         }
 
         System.out.println("Análise concluída. Arquivos gerados: "
-                + baseName + ".LEX e " + baseName + ".TAB");
+                + baseName + ".LEX, " + baseName + ".TAB e " + baseName + ".LIT");
     }
 
     private String askFileNameFromUser() {
@@ -0,0 +1,344 @@
+package br.ucsal.caatinguage.sintatico;
+
+import br.ucsal.caatinguage.lexico.Lexer;
+import br.ucsal.caatinguage.lexico.Token;
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.LiteralEntry;
+import br.ucsal.caatinguage.tabela.SymbolType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analisador sintático descendente recursivo. Consome os tokens do Lexer e monta a Ast.
+ *
+ * Gramática aceita:
+ *  programa    -> program ID [declarations {decl} endDeclarations]
+ *                 [functions {funcao} endFunctions] {comando} endProgram
+ *  decl        -> [varType] tipo [:] ID {, ID} ;
+ *  funcao      -> [funcType] tipo [:] ID ( [param {, param}] ) {decl} {comando} endFunction
+ *  param       -> [[paramType] tipo [:]] ID      (sem tipo, repete o tipo anterior)
+ *  comando     -> ID := expr ; | ID ( args ) ; | print ( args ) ; | break ; | return [expr] ;
+ *               | if expr {comando} [else {comando}] endIf
+ *               | while expr {comando} endWhile
+ *  expr        -> soma [relop soma]
+ *  soma        -> termo {(+|-) termo}
+ *  termo       -> fator {(*|/|%) fator}
+ *  fator       -> - fator | literal | true | false | ID | ID ( args ) | ( expr )
+ */
+public class Parser {
+
+    private final Lexer lexer;
+    private Token atual;
+
+    public Parser(Lexer lexer) throws Exception {
+        this.lexer = lexer;
+        avancar();
+    }
+
+    public Ast.Programa analisarPrograma() throws Exception {
+        consumir(TokenType.PROGRAM);
+        String nome = consumir(TokenType.IDENTIFIER).getLexeme();
+
+        List<Ast.Declaracao> globais = new ArrayList<>();
+        if (aceitar(TokenType.DECLARATIONS)) {
+            while (!verificar(TokenType.END_DECLARATIONS)) {
+                analisarDeclaracao(globais);
+            }
+            consumir(TokenType.END_DECLARATIONS);
+        }
+
+        List<Ast.Funcao> funcoes = new ArrayList<>();
+        if (aceitar(TokenType.FUNCTIONS)) {
+            while (!verificar(TokenType.END_FUNCTIONS)) {
+                funcoes.add(analisarFuncao());
+            }
+            consumir(TokenType.END_FUNCTIONS);
+        }
+
+        List<Ast.Comando> corpo = analisarBloco(TokenType.END_PROGRAM);
+        consumir(TokenType.END_PROGRAM);
+        consumir(TokenType.EOF);
+
+        return new Ast.Programa(nome, globais, funcoes, corpo);
+    }
+
+    // --- Declarações e funções ---
+
+    private void analisarDeclaracao(List<Ast.Declaracao> destino) throws Exception {
+        SymbolType tipo = analisarTipo(TokenType.VAR_TYPE);
+        do {
+            Token id = consumir(TokenType.IDENTIFIER);
+            destino.add(new Ast.Declaracao(tipo, id.getLexeme(), id.getLine()));
+        } while (aceitar(TokenType.COMMA));
+        consumir(TokenType.SEMICOLON);
+    }
+
+    private Ast.Funcao analisarFuncao() throws Exception {
+        int linha = atual.getLine();
+        SymbolType tipoRetorno = analisarTipo(TokenType.FUNC_TYPE);
+        String nome = consumir(TokenType.IDENTIFIER).getLexeme();
+
+        List<Ast.Declaracao> parametros = new ArrayList<>();
+        consumir(TokenType.LPAREN);
+        if (!verificar(TokenType.RPAREN)) {
+            SymbolType tipoParametro = null;
+            do {
+                if (verificar(TokenType.PARAM_TYPE) || ehTipo(atual.getType())) {
+                    tipoParametro = analisarTipo(TokenType.PARAM_TYPE);
+                } else if (tipoParametro == null) {
+                    throw erro("tipo do parâmetro esperado");
+                }
+                Token id = consumir(TokenType.IDENTIFIER);
+                parametros.add(new Ast.Declaracao(tipoParametro, id.getLexeme(), id.getLine()));
+            } while (aceitar(TokenType.COMMA));
+        }
+        consumir(TokenType.RPAREN);
+
+        // Declarações locais vêm antes do primeiro comando
+        List<Ast.Declaracao> locais = new ArrayList<>();
+        while (verificar(TokenType.VAR_TYPE) || ehTipo(atual.getType()) || verificar(TokenType.SEMICOLON)) {
+            if (!aceitar(TokenType.SEMICOLON)) {
+                analisarDeclaracao(locais);
+            }
+        }
+        List<Ast.Comando> corpo = analisarBloco(TokenType.END_FUNCTION);
+        consumir(TokenType.END_FUNCTION);
+        aceitar(TokenType.SEMICOLON);
+
+        return new Ast.Funcao(tipoRetorno, nome, parametros, locais, corpo, linha);
+    }
+
+    // [prefixo] tipo [:]
+    private SymbolType analisarTipo(TokenType prefixo) throws Exception {
+        aceitar(prefixo);
+        SymbolType tipo = SymbolType.doToken(atual.getType());
+        if (tipo == null) {
+            throw erro("tipo esperado");
+        }
+        avancar();
+        aceitar(TokenType.COLON);
+        return tipo;
+    }
+
+    // --- Comandos ---
+
+    private List<Ast.Comando> analisarBloco(TokenType... terminadores) throws Exception {
+        List<Ast.Comando> comandos = new ArrayList<>();
+        while (!verificarAlgum(terminadores)) {
+            if (!aceitar(TokenType.SEMICOLON)) {
+                comandos.add(analisarComando());
+            }
+        }
+        return comandos;
+    }
+
+    private Ast.Comando analisarComando() throws Exception {
+        int linha = atual.getLine();
+
+        switch (atual.getType()) {
+            case IDENTIFIER: {
+                String nome = atual.getLexeme();
+                avancar();
+                if (verificar(TokenType.LPAREN)) {
+                    Ast.Chamada chamada = new Ast.Chamada(nome, analisarArgumentos(), linha);
+                    consumir(TokenType.SEMICOLON);
+                    return new Ast.ChamadaComando(chamada);
+                }
+                consumir(TokenType.ASSIGN);
+                Ast.Expressao valor = analisarExpressao();
+                consumir(TokenType.SEMICOLON);
+                return new Ast.Atribuicao(nome, valor, linha);
+            }
+            case PRINT: {
+                avancar();
+                List<Ast.Expressao> valores = analisarArgumentos();
+                consumir(TokenType.SEMICOLON);
+                return new Ast.Imprima(valores, linha);
+            }
+            case IF: {
+                avancar();
+                Ast.Expressao condicao = analisarExpressao();
+                List<Ast.Comando> entao = analisarBloco(TokenType.ELSE, TokenType.END_IF);
+                List<Ast.Comando> senao = aceitar(TokenType.ELSE)
+                        ? analisarBloco(TokenType.END_IF)
+                        : List.of();
+                consumir(TokenType.END_IF);
+                return new Ast.Se(condicao, entao, senao, linha);
+            }
+            case WHILE: {
+                avancar();
+                Ast.Expressao condicao = analisarExpressao();
+                List<Ast.Comando> corpo = analisarBloco(TokenType.END_WHILE);
+                consumir(TokenType.END_WHILE);
+                return new Ast.Enquanto(condicao, corpo, linha);
+            }
+            case BREAK:
+                avancar();
+                consumir(TokenType.SEMICOLON);
+                return new Ast.Pare(linha);
+            case RETURN: {
+                avancar();
+                Ast.Expressao valor = verificar(TokenType.SEMICOLON) ? null : analisarExpressao();
+                consumir(TokenType.SEMICOLON);
+                return new Ast.Retorne(valor, linha);
+            }
+            default:
+                if (verificar(TokenType.VAR_TYPE) || ehTipo(atual.getType())) {
+                    throw erro("declaração após comando '" + atual.getLexeme()
+                            + "' (declarações locais vêm antes do primeiro comando da função)");
+                }
+                throw erro("comando inválido '" + atual.getLexeme() + "'");
+        }
+    }
+
+    // ( [expr {, expr}] )
+    private List<Ast.Expressao> analisarArgumentos() throws Exception {
+        consumir(TokenType.LPAREN);
+        List<Ast.Expressao> argumentos = new ArrayList<>();
+        if (!verificar(TokenType.RPAREN)) {
+            do {
+                argumentos.add(analisarExpressao());
+            } while (aceitar(TokenType.COMMA));
+        }
+        consumir(TokenType.RPAREN);
+        return argumentos;
+    }
+
+    // --- Expressões ---
+
+    private Ast.Expressao analisarExpressao() throws Exception {
+        Ast.Expressao esquerda = analisarSoma();
+        switch (atual.getType()) {
+            case EQ: case NEQ: case HASH: case LT: case LE: case GT: case GE: {
+                Token operador = atual;
+                avancar();
+                Ast.Expressao direita = analisarSoma();
+                return new Ast.Binaria(operador.getType(), esquerda, direita, operador.getLine());
+            }
+            default:
+                return esquerda;
+        }
+    }
+
+    private Ast.Expressao analisarSoma() throws Exception {
+        Ast.Expressao expressao = analisarTermo();
+        while (verificar(TokenType.PLUS) || verificar(TokenType.MINUS)) {
+            Token operador = atual;
+            avancar();
+            expressao = new Ast.Binaria(operador.getType(), expressao, analisarTermo(), operador.getLine());
+        }
+        return expressao;
+    }
+
+    private Ast.Expressao analisarTermo() throws Exception {
+        Ast.Expressao expressao = analisarFator();
+        while (verificar(TokenType.STAR) || verificar(TokenType.SLASH) || verificar(TokenType.PERCENT)) {
+            Token operador = atual;
+            avancar();
+            expressao = new Ast.Binaria(operador.getType(), expressao, analisarFator(), operador.getLine());
+        }
+        return expressao;
+    }
+
+    private Ast.Expressao analisarFator() throws Exception {
+        Token token = atual;
+        int linha = token.getLine();
+
+        switch (token.getType()) {
+            case MINUS:
+                avancar();
+                return new Ast.Negacao(analisarFator(), linha);
+            case LPAREN: {
+                avancar();
+                Ast.Expressao interna = analisarExpressao();
+                consumir(TokenType.RPAREN);
+                return interna;
+            }
+            case TRUE:
+                avancar();
+                return new Ast.LiteralBooleano(true, linha);
+            case FALSE:
+                avancar();
+                return new Ast.LiteralBooleano(false, linha);
+            case INT_CONST: {
+                LiteralEntry literal = literal(token);
+                return new Ast.LiteralInteiro(literal.getValorInteiro(), linha);
+            }
+            case REAL_CONST: {
+                LiteralEntry literal = literal(token);
+                return new Ast.LiteralReal(literal.getValorReal(), linha);
+            }
+            case STRING_CONST:
+                return new Ast.LiteralTexto(literal(token).getValorTexto(), linha);
+            case CHAR_CONST:
+                return new Ast.LiteralCaractere(literal(token).getValorCaractere(), linha);
+            case IDENTIFIER: {
+                avancar();
+                if (verificar(TokenType.LPAREN)) {
+                    return new Ast.Chamada(token.getLexeme(), analisarArgumentos(), linha);
+                }
+                return new Ast.Variavel(token.getLexeme(), linha);
+            }
+            default:
+                throw erro("expressão esperada");
+        }
+    }
+
+    // Valor já convertido pela tabela de literais do Lexer, carregado no próprio token
+    private LiteralEntry literal(Token token) throws Exception {
+        LiteralEntry literal = token.getLiteral();
+        if (literal.isEstouro()) {
+            throw erro("literal fora do intervalo representável '" + token.getLexeme() + "'");
+        }
+        avancar();
+        return literal;
+    }
+
+    // --- Utilitários ---
+
+    private void avancar() throws Exception {
+        atual = lexer.proximoToken();
+    }
+
+    private boolean verificar(TokenType tipo) {
+        return atual.getType() == tipo;
+    }
+
+    private boolean verificarAlgum(TokenType... tipos) throws Exception {
+        for (TokenType tipo : tipos) {
+            if (atual.getType() == tipo) {
+                return true;
+            }
+        }
+        if (atual.getType() == TokenType.EOF) {
+            throw erro("fim de arquivo inesperado");
+        }
+        return false;
+    }
+
+    private boolean aceitar(TokenType tipo) throws Exception {
+        if (atual.getType() == tipo) {
+            avancar();
+            return true;
+        }
+        return false;
+    }
+
+    private Token consumir(TokenType tipo) throws Exception {
+        if (atual.getType() != tipo) {
+            throw erro(tipo.name() + " esperado, encontrado '" + atual.getLexeme() + "'");
+        }
+        Token token = atual;
+        avancar();
+        return token;
+    }
+
+    private Exception erro(String mensagem) {
+        return new Exception("Erro sintático na linha " + atual.getLine() + ": " + mensagem);
+    }
+
+    private static boolean ehTipo(TokenType tipo) {
+        return SymbolType.doToken(tipo) != null;
+    }
+}
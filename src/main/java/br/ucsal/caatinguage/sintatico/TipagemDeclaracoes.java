@@ -0,0 +1,121 @@
+package br.ucsal.caatinguage.sintatico;
+
+import br.ucsal.caatinguage.lexico.Token;
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.SimboloManager;
+import br.ucsal.caatinguage.tabela.SymbolEntry;
+import br.ucsal.caatinguage.tabela.SymbolType;
+
+/**
+ * Tipagem de declarações em passada única, acoplada ao fluxo de tokens:
+ * cada token que sai de Lexer.proximoToken() é repassado a observar(),
+ * que preenche o SymbolType do SymbolEntry na hora (coluna TYPE do .TAB).
+ *
+ * Reconhece:
+ *  - bloco declarations/endDeclarations: "[varType] tipo [:] a, b, c;"
+ *  - bloco functions/endFunctions: cabeçalho "[funcType] tipo [:] nome (" e
+ *    parâmetros "[paramType] tipo [:] p" dentro dos parênteses, além de
+ *    declarações locais no início do corpo da função
+ * Identificadores entre colchetes (tamanho de vetor) não são tipados.
+ */
+public class TipagemDeclaracoes {
+
+    private enum Secao { FORA, DECLARACOES, FUNCOES }
+
+    private final SimboloManager tabela;
+
+    private Secao secao = Secao.FORA;
+    private SymbolType tipoCorrente;   // null quando não há declaração em andamento
+    private int profundidadeParenteses = 0;
+    private int profundidadeColchetes = 0;
+    private boolean emCorpoFuncao = false;
+
+    public TipagemDeclaracoes(SimboloManager tabela) {
+        this.tabela = tabela;
+    }
+
+    public void observar(Token token) {
+        TokenType tipo = token.getType();
+
+        switch (tipo) {
+            case DECLARATIONS:
+                iniciarSecao(Secao.DECLARACOES);
+                return;
+            case FUNCTIONS:
+                iniciarSecao(Secao.FUNCOES);
+                return;
+            case END_DECLARATIONS:
+            case END_FUNCTIONS:
+            case END_PROGRAM:
+                iniciarSecao(Secao.FORA);
+                return;
+            default:
+                break;
+        }
+
+        if (secao == Secao.FORA) {
+            return;
+        }
+
+        SymbolType tipoDeclarado = SymbolType.doToken(tipo);
+        if (tipoDeclarado != null) {
+            tipoCorrente = tipoDeclarado;
+            return;
+        }
+
+        switch (tipo) {
+            case IDENTIFIER:
+                if (tipoCorrente != null && profundidadeColchetes == 0) {
+                    definirTipo(token.getLexeme(), tipoCorrente);
+                    // No cabeçalho, o tipo fora de parênteses nomeia uma única função
+                    if (secao == Secao.FUNCOES && !emCorpoFuncao && profundidadeParenteses == 0) {
+                        tipoCorrente = null;
+                    }
+                }
+                break;
+            case LPAREN:
+                profundidadeParenteses++;
+                tipoCorrente = null;
+                break;
+            case RPAREN:
+                if (profundidadeParenteses > 0) profundidadeParenteses--;
+                if (secao == Secao.FUNCOES && profundidadeParenteses == 0) {
+                    emCorpoFuncao = true;
+                }
+                tipoCorrente = null;
+                break;
+            case LBRACKET:
+                profundidadeColchetes++;
+                break;
+            case RBRACKET:
+                if (profundidadeColchetes > 0) profundidadeColchetes--;
+                break;
+            case SEMICOLON:
+                tipoCorrente = null;
+                profundidadeParenteses = 0;
+                profundidadeColchetes = 0;
+                break;
+            case END_FUNCTION:
+                iniciarSecao(Secao.FUNCOES);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void iniciarSecao(Secao nova) {
+        secao = nova;
+        tipoCorrente = null;
+        profundidadeParenteses = 0;
+        profundidadeColchetes = 0;
+        emCorpoFuncao = false;
+    }
+
+    private void definirTipo(String lexema, SymbolType tipo) {
+        SymbolEntry entrada = tabela.buscar(lexema);
+        // Primeira declaração prevalece (tabela de símbolos é plana)
+        if (entrada != null && entrada.getTipoSimbolo() == SymbolType.NO_TYPE) {
+            entrada.setTipoSimbolo(tipo);
+        }
+    }
+}
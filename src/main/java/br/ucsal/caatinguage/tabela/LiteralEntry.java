@@ -0,0 +1,133 @@
+package br.ucsal.caatinguage.tabela;
+
+import br.ucsal.caatinguage.lexico.TokenType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LiteralEntry {
+    private final int numeroEntrada;
+    private final TokenType tipoToken;
+    private final String lexeme;
+    private final int hash;
+    private long valorInteiro;
+    private double valorReal;
+    private boolean estouro;
+    private int ocorrencias;
+    private final List<Integer> linhas;
+
+    LiteralEntry(int numero, TokenType tipoToken, String lexeme, int hash, int linha) {
+        this.numeroEntrada = numero;
+        this.tipoToken = tipoToken;
+        this.lexeme = lexeme;
+        this.hash = hash;
+        this.ocorrencias = 1;
+        this.linhas = new ArrayList<>();
+        this.linhas.add(linha);
+    }
+
+    void atualizar(int linha) {
+        ocorrencias++;
+        if (this.linhas.size() < 5 && !this.linhas.contains(linha)) {
+            this.linhas.add(linha);
+        }
+    }
+
+    void definirValorInteiro(long valor, boolean estouro) {
+        this.valorInteiro = valor;
+        this.valorReal = valor;
+        this.estouro = estouro;
+    }
+
+    void definirValorReal(double valor, boolean estouro) {
+        this.valorReal = valor;
+        this.estouro = estouro;
+    }
+
+    int getHash() {
+        return hash;
+    }
+
+    public int getNumeroEntrada() {
+        return numeroEntrada;
+    }
+
+    public TokenType getTipoToken() {
+        return tipoToken;
+    }
+
+    public String getCodigoAtomo() {
+        return tipoToken.getCodigo();
+    }
+
+    /**
+     * Lexema canônico (instância única compartilhada por todos os tokens iguais).
+     */
+    public String getLexeme() {
+        return lexeme;
+    }
+
+    public long getValorInteiro() {
+        return valorInteiro;
+    }
+
+    public double getValorReal() {
+        return valorReal;
+    }
+
+    /**
+     * Valor de CHAR_CONST (conteúdo entre aspas simples); 0 se vazio.
+     */
+    public char getValorCaractere() {
+        return lexeme.length() > 2 ? lexeme.charAt(1) : '\0';
+    }
+
+    /**
+     * Conteúdo de STRING_CONST sem as aspas.
+     */
+    public String getValorTexto() {
+        return lexeme.substring(1, lexeme.length() - 1);
+    }
+
+    public boolean isEstouro() {
+        return estouro;
+    }
+
+    public int getOcorrencias() {
+        return ocorrencias;
+    }
+
+    public List<Integer> getLinhas() {
+        return linhas;
+    }
+
+    public String getLinhasFormatadas() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < linhas.size(); i++) {
+            if (i > 0) sb.append(",");
+            sb.append(linhas.get(i));
+        }
+        return sb.toString();
+    }
+
+    public String getValorFormatado() {
+        switch (tipoToken) {
+            case INT_CONST:
+                return estouro ? "-" : Long.toString(valorInteiro);
+            case REAL_CONST:
+                return estouro ? "-" : Double.toString(valorReal);
+            case CHAR_CONST:
+                return String.valueOf((int) getValorCaractere());
+            default:
+                return lexeme;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "Entrada: %d, Codigo: %s, Lexeme: %s, Valor: %s, Ocorrencias: %d, Estouro: %s, Linhas: %s",
+                numeroEntrada, getCodigoAtomo(), lexeme, getValorFormatado(), ocorrencias, estouro, linhas
+        );
+    }
+}
@@ -0,0 +1,429 @@
+package br.ucsal.caatinguage.tabela;
+
+import br.ucsal.caatinguage.lexico.TokenType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tabela de literais (INT_CONST, REAL_CONST, STRING_CONST, CHAR_CONST).
+ * Faz:
+ *  - deduplicação: cada literal distinto gera um único String, reaproveitado nos tokens
+ *  - busca direto sobre o trecho lido (CharSequence), sem criar String para literais repetidos
+ *  - conversão de inteiros e reais para primitivos direto do trecho lido, sem montar
+ *    String temporária nem usar Long.parseLong/Double.parseDouble
+ *  - detecção de estouro (inteiro fora de long, real fora de double)
+ */
+public class LiteralManager {
+
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    // 10^0 .. 10^22 são exatamente representáveis em double
+    private static final double[] POTENCIAS_DEZ = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22
+    };
+
+    // Potências de 10 de 10^-348 a 10^347 como mantissa de 128 bits normalizada
+    // (bit 127 ligado), para o algoritmo de Eisel-Lemire. Mesma tabela de fast_float:
+    // 5^q truncado para q >= 0; para q < 0, floor(2^b / 5^-q) + 1, exato o bastante
+    // para -27 <= q < 0 e truncado para 128 bits abaixo disso
+    private static final int POT10_MIN = -348;
+    private static final int POT10_MAX = 347;
+    private static final long[] POT10_ALTO = new long[POT10_MAX - POT10_MIN + 1];
+    private static final long[] POT10_BAIXO = new long[POT10_MAX - POT10_MIN + 1];
+
+    private static final BigInteger DEZ_18 = BigInteger.TEN.pow(18);
+
+    static {
+        BigInteger limite127 = BigInteger.ONE.shiftLeft(127);
+        BigInteger mascara64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = POT10_MIN; q <= POT10_MAX; q++) {
+            BigInteger m;
+            if (q >= 0) {
+                BigInteger p = BigInteger.valueOf(5).pow(q);
+                int deslocamento = p.bitLength() - 128;
+                m = deslocamento >= 0 ? p.shiftRight(deslocamento) : p.shiftLeft(-deslocamento);
+            } else {
+                BigInteger p = BigInteger.valueOf(5).pow(-q);
+                int z = p.subtract(BigInteger.ONE).bitLength(); // menor z com 2^z >= 5^-q
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                m = BigInteger.ONE.shiftLeft(b).divide(p).add(BigInteger.ONE);
+                while (m.bitLength() > 128) {
+                    m = m.shiftRight(1);
+                }
+            }
+            assert m.compareTo(limite127) >= 0;
+            POT10_ALTO[q - POT10_MIN] = m.shiftRight(64).longValue();
+            POT10_BAIXO[q - POT10_MIN] = m.and(mascara64).longValue();
+        }
+    }
+
+    // Tabela hash de endereçamento aberto (sondagem linear), chaveada pelo conteúdo do lexema
+    private LiteralEntry[] slots = new LiteralEntry[CAPACIDADE_INICIAL];
+    private final List<LiteralEntry> entradas = new ArrayList<>();
+
+    /**
+     * Registra uma ocorrência do literal contido em texto[inicio, fim).
+     * Se já existir, apenas atualiza ocorrências/linhas; caso contrário cria a
+     * entrada (único ponto em que um String é alocado) e converte o valor.
+     */
+    public LiteralEntry registrar(TokenType tipoToken, CharSequence texto, int inicio, int fim, int linha) {
+        int hash = hash(tipoToken, texto, inicio, fim);
+        int mascara = slots.length - 1;
+        int i = hash & mascara;
+
+        LiteralEntry atual;
+        while ((atual = slots[i]) != null) {
+            if (atual.getHash() == hash && atual.getTipoToken() == tipoToken
+                    && mesmoConteudo(atual.getLexeme(), texto, inicio, fim)) {
+                atual.atualizar(linha);
+                return atual;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        String lexeme = texto.subSequence(inicio, fim).toString();
+        LiteralEntry novo = new LiteralEntry(entradas.size() + 1, tipoToken, lexeme, hash, linha);
+
+        if (tipoToken == TokenType.INT_CONST) {
+            converterInteiro(novo, texto, inicio, fim);
+        } else if (tipoToken == TokenType.REAL_CONST) {
+            converterReal(novo, texto, inicio, fim);
+        }
+
+        slots[i] = novo;
+        entradas.add(novo);
+        if (entradas.size() * 2 > slots.length) {
+            redimensionar();
+        }
+        return novo;
+    }
+
+    public LiteralEntry registrar(TokenType tipoToken, CharSequence texto, int linha) {
+        return registrar(tipoToken, texto, 0, texto.length(), linha);
+    }
+
+    public List<LiteralEntry> getEntradas() {
+        return Collections.unmodifiableList(entradas);
+    }
+
+    private static int hash(TokenType tipoToken, CharSequence texto, int inicio, int fim) {
+        int h = tipoToken.ordinal();
+        for (int i = inicio; i < fim; i++) {
+            h = 31 * h + texto.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean mesmoConteudo(String lexeme, CharSequence texto, int inicio, int fim) {
+        if (lexeme.length() != fim - inicio) {
+            return false;
+        }
+        for (int i = 0; i < lexeme.length(); i++) {
+            if (lexeme.charAt(i) != texto.charAt(inicio + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void redimensionar() {
+        LiteralEntry[] novos = new LiteralEntry[slots.length * 2];
+        int mascara = novos.length - 1;
+        for (LiteralEntry e : entradas) {
+            int i = e.getHash() & mascara;
+            while (novos[i] != null) {
+                i = (i + 1) & mascara;
+            }
+            novos[i] = e;
+        }
+        slots = novos;
+    }
+
+    private static void converterInteiro(LiteralEntry entrada, CharSequence texto, int inicio, int fim) {
+        long valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int d = texto.charAt(i) - '0';
+            if (valor > (Long.MAX_VALUE - d) / 10) {
+                entrada.definirValorInteiro(0, true);
+                return;
+            }
+            valor = valor * 10 + d;
+        }
+        entrada.definirValorInteiro(valor, false);
+    }
+
+    /**
+     * Formato aceito pelo Lexer: digitos '.' digitos* [ (e|E) [+|-] digitos* ]
+     * (o expoente pode vir vazio, ex: "1.e"). Lê até 18 dígitos significativos em
+     * um long e converte, em ordem:
+     *  1. Clinger: exato quando mantissa <= 2^53 e |expoente| <= 22
+     *  2. Eisel-Lemire: mantissa x potência de 10 em 128 bits (caso comum, inclusive
+     *     reais de 17 dígitos como 0.30000000000000004); com mais de 18 dígitos, só
+     *     aceita se as mantissas truncada e truncada+1 derem o mesmo double
+     *  3. conversão exata com BigInteger sobre os dígitos do trecho, apenas quando
+     *     Eisel-Lemire não decide (empate exato, subnormais, limite de estouro)
+     */
+    private static void converterReal(LiteralEntry entrada, CharSequence texto, int inicio, int fim) {
+        long mantissa = 0;
+        int digitos = 0;
+        int expoente10 = 0;
+        boolean truncado = false;
+        int i = inicio;
+
+        // Parte inteira
+        while (i < fim && Character.isDigit(texto.charAt(i))) {
+            int d = texto.charAt(i++) - '0';
+            if (mantissa == 0 && d == 0) {
+                continue;
+            }
+            if (digitos < 18) {
+                mantissa = mantissa * 10 + d;
+                digitos++;
+            } else {
+                expoente10++;
+                truncado |= d != 0;
+            }
+        }
+
+        // Parte fracionária
+        if (i < fim && texto.charAt(i) == '.') {
+            i++;
+            while (i < fim && Character.isDigit(texto.charAt(i))) {
+                int d = texto.charAt(i++) - '0';
+                if (mantissa == 0 && d == 0) {
+                    expoente10--;
+                } else if (digitos < 18) {
+                    mantissa = mantissa * 10 + d;
+                    expoente10--;
+                    digitos++;
+                } else {
+                    truncado |= d != 0;
+                }
+            }
+        }
+
+        int fimDigitos = i;
+        int expoenteLido = 0;
+
+        // Parte exponencial (e±NN)
+        if (i < fim && (texto.charAt(i) == 'e' || texto.charAt(i) == 'E')) {
+            i++;
+            boolean negativo = false;
+            if (i < fim && (texto.charAt(i) == '+' || texto.charAt(i) == '-')) {
+                negativo = texto.charAt(i) == '-';
+                i++;
+            }
+            int exp = 0;
+            while (i < fim && Character.isDigit(texto.charAt(i))) {
+                if (exp < 100_000) {
+                    exp = exp * 10 + (texto.charAt(i) - '0');
+                }
+                i++;
+            }
+            expoenteLido = negativo ? -exp : exp;
+            expoente10 += expoenteLido;
+        }
+
+        if (mantissa == 0) {
+            entrada.definirValorReal(0.0, false);
+            return;
+        }
+
+        double valor;
+        if (!truncado && mantissa <= (1L << 53) && expoente10 >= -22 && expoente10 <= 22) {
+            valor = expoente10 >= 0
+                    ? mantissa * POTENCIAS_DEZ[expoente10]
+                    : mantissa / POTENCIAS_DEZ[-expoente10];
+        } else if (expoente10 > 308) {
+            valor = Double.POSITIVE_INFINITY; // >= 10^309
+        } else if (expoente10 < -361) {
+            valor = 0.0;                      // < 10^18 x 10^-362, abaixo do menor subnormal / 2
+        } else {
+            valor = eiselLemire(mantissa, expoente10);
+            if (truncado && !Double.isNaN(valor)
+                    && eiselLemire(mantissa + 1, expoente10) != valor) {
+                valor = Double.NaN;
+            }
+            if (Double.isNaN(valor)) {
+                valor = converterRealExato(texto, inicio, fimDigitos, expoenteLido);
+            }
+        }
+        entrada.definirValorReal(valor, Double.isInfinite(valor));
+    }
+
+    /**
+     * Eisel-Lemire: w x 10^q arredondado para o double mais próximo (empate para par).
+     * Devolve NaN quando não consegue decidir; o chamador recorre à conversão exata.
+     */
+    private static double eiselLemire(long w, int q) {
+        if (q < POT10_MIN || q > POT10_MAX) {
+            return Double.NaN;
+        }
+        int zerosEsquerda = Long.numberOfLeadingZeros(w);
+        w <<= zerosEsquerda;
+        long expoente2 = ((217706L * q) >> 16) + 64 + 1023 - zerosEsquerda;
+
+        // Produto de 64 x 128 bits, primeiro só com a parte alta da potência
+        int idx = q - POT10_MIN;
+        long xAlto = multiplicarAltoSemSinal(w, POT10_ALTO[idx]);
+        long xBaixo = w * POT10_ALTO[idx];
+        if ((xAlto & 0x1FF) == 0x1FF && Long.compareUnsigned(xBaixo + w, w) < 0) {
+            long yAlto = multiplicarAltoSemSinal(w, POT10_BAIXO[idx]);
+            long yBaixo = w * POT10_BAIXO[idx];
+            long somaAlto = xAlto;
+            long somaBaixo = xBaixo + yAlto;
+            if (Long.compareUnsigned(somaBaixo, xBaixo) < 0) {
+                somaAlto++;
+            }
+            if ((somaAlto & 0x1FF) == 0x1FF && somaBaixo + 1 == 0
+                    && Long.compareUnsigned(yBaixo + w, w) < 0) {
+                return Double.NaN;
+            }
+            xAlto = somaAlto;
+            xBaixo = somaBaixo;
+        }
+
+        // Reduz para 54 bits, depois arredonda para 53
+        long bitAlto = xAlto >>> 63;
+        long mantissa = xAlto >>> (bitAlto + 9);
+        expoente2 -= 1 ^ bitAlto;
+
+        if (xBaixo == 0 && (xAlto & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            return Double.NaN; // possível empate exato
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if ((mantissa >>> 53) > 0) {
+            mantissa >>>= 1;
+            expoente2++;
+        }
+        if (expoente2 <= 0 || expoente2 >= 0x7FF) {
+            return Double.NaN; // subnormal ou estouro: decide na conversão exata
+        }
+        return Double.longBitsToDouble(expoente2 << 52 | mantissa & 0x000FFFFFFFFFFFFFL);
+    }
+
+    private static long multiplicarAltoSemSinal(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * Conversão exata (arredondamento para o mais próximo, empate para par) dos dígitos
+     * em texto[inicio, fimDigitos) vezes 10^expoenteLido. Caminho raro: só roda quando
+     * Eisel-Lemire devolve NaN.
+     */
+    private static double converterRealExato(CharSequence texto, int inicio, int fimDigitos, int expoenteLido) {
+        BigInteger digitos = BigInteger.ZERO;
+        long bloco = 0;
+        int tamanhoBloco = 0;
+        int casasDecimais = 0;
+        int significativos = 0;
+        boolean fracao = false;
+
+        for (int i = inicio; i < fimDigitos; i++) {
+            char c = texto.charAt(i);
+            if (c == '.') {
+                fracao = true;
+                continue;
+            }
+            if (fracao) {
+                casasDecimais++;
+            }
+            if (significativos > 0 || c != '0') {
+                significativos++;
+            }
+            bloco = bloco * 10 + (c - '0');
+            if (++tamanhoBloco == 18) {
+                digitos = digitos.multiply(DEZ_18).add(BigInteger.valueOf(bloco));
+                bloco = 0;
+                tamanhoBloco = 0;
+            }
+        }
+        if (tamanhoBloco > 0) {
+            digitos = digitos.multiply(BigInteger.TEN.pow(tamanhoBloco)).add(BigInteger.valueOf(bloco));
+        }
+        if (digitos.signum() == 0) {
+            return 0.0;
+        }
+
+        // valor em [10^magnitude, 10^(magnitude + 1))
+        long expoente10 = (long) expoenteLido - casasDecimais;
+        long magnitude = expoente10 + significativos - 1;
+        if (magnitude >= 309) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (magnitude <= -325) {
+            return 0.0;
+        }
+
+        if (expoente10 >= 0) {
+            return digitos.multiply(BigInteger.TEN.pow((int) expoente10)).doubleValue();
+        }
+
+        BigInteger divisor = BigInteger.TEN.pow((int) -expoente10);
+        int deslocamento = Math.max(0, divisor.bitLength() - digitos.bitLength() + 64);
+        BigInteger[] qr = digitos.shiftLeft(deslocamento).divideAndRemainder(divisor);
+        BigInteger quociente = qr[0];
+
+        if (quociente.bitLength() - 1 - deslocamento >= -1022) {
+            // Normal: quociente tem >= 64 bits; o bit 0 guarda o resto (sticky)
+            if (qr[1].signum() != 0) {
+                quociente = quociente.setBit(0);
+            }
+            return Math.scalb(quociente.doubleValue(), -deslocamento);
+        }
+
+        // Subnormal: quociente em unidades de 2^-1074, arredondado pelo resto
+        qr = digitos.shiftLeft(1074).divideAndRemainder(divisor);
+        quociente = qr[0];
+        int comparacao = qr[1].shiftLeft(1).compareTo(divisor);
+        if (comparacao > 0 || (comparacao == 0 && quociente.testBit(0))) {
+            quociente = quociente.add(BigInteger.ONE);
+        }
+        return quociente.longValue() * Double.MIN_VALUE;
+    }
+
+    public String gerarRelatorioLITComoTexto() {
+        StringBuilder sb = new StringBuilder();
+        for (LiteralEntry l : entradas) {
+            sb.append(l.toString()).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Gera arquivo .LIT no formato tabular:
+     * INDEX  ATOM  LEXEME  VALUE  OCCURRENCES  STATUS  LINES
+     */
+    public void gerarArquivoLIT(String baseName) throws IOException {
+        Path path = Path.of(baseName + ".LIT");
+        try (PrintWriter out = new PrintWriter(
+                java.nio.file.Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+
+            out.println("INDEX\tATOM\tLEXEME\tVALUE\tOCCURRENCES\tSTATUS\tLINES");
+
+            for (LiteralEntry l : entradas) {
+                out.printf(
+                        "%d\t%s\t%s\t%s\t%d\t%s\t%s%n",
+                        l.getNumeroEntrada(),
+                        l.getCodigoAtomo(),
+                        l.getLexeme(),
+                        l.getValorFormatado(),
+                        l.getOcorrencias(),
+                        l.isEstouro() ? "OVERFLOW" : "OK",
+                        l.getLinhasFormatadas()
+                );
+            }
+        }
+    }
+}
@@ -88,6 +88,14 @@ public class SimboloManager {
         }
     }
 
+    /**
+     * Busca símbolo já inserido pelo lexema truncado e em maiúsculas
+     * (o mesmo lexema devolvido nos tokens IDENTIFIER).
+     */
+    public SymbolEntry buscar(String lexemaTruncado) {
+        return tabelaSimbolos.get(lexemaTruncado);
+    }
+
     public String gerarRelatorioTABComoTexto() {
         StringBuilder sb = new StringBuilder();
         for (SymbolEntry s : tabelaSimbolos.values()) {
@@ -1,7 +1,15 @@
 package br.ucsal.caatinguage.tabela;
 
+import br.ucsal.caatinguage.lexico.TokenType;
+
 public enum SymbolType {
-    NO_TYPE("-");
+    NO_TYPE("-"),
+    INTEGER("INT"),
+    REAL("REA"),
+    CHARACTER("CHR"),
+    STRING("STR"),
+    BOOLEAN("BOO"),
+    VOID("VOI");
 
     private final String code;
 
@@ -12,4 +20,19 @@ public enum SymbolType {
     public String getCode() {
         return code;
     }
+
+    /**
+     * Tipo correspondente à palavra reservada de tipo (integer, real, ...); null para os demais tokens.
+     */
+    public static SymbolType doToken(TokenType tipo) {
+        switch (tipo) {
+            case INTEGER:   return INTEGER;
+            case REAL:      return REAL;
+            case CHARACTER: return CHARACTER;
+            case STRING:    return STRING;
+            case BOOLEAN:   return BOOLEAN;
+            case VOID:      return VOID;
+            default:        return null;
+        }
+    }
 }
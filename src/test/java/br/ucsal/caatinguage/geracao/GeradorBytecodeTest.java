@@ -0,0 +1,208 @@
+package br.ucsal.caatinguage.geracao;
+
+import br.ucsal.caatinguage.sintatico.Ast;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorBytecodeTest {
+
+    private final MainCompilador compilador = new MainCompilador();
+
+    // Compila, executa e devolve as linhas impressas pelo programa
+    private List<String> executar(String fonte) throws Throwable {
+        Ast.Programa programa = compilador.analisar(new StringReader(fonte));
+        Class<?> classe = compilador.carregar(programa, "Teste.252");
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(saida, true, StandardCharsets.UTF_8));
+        try {
+            compilador.executar(classe, new String[0]);
+        } finally {
+            System.setOut(original);
+        }
+        return saida.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private void assertErroSemantico(int linha, String trecho, String fonte) {
+        Exception e = assertThrows(Exception.class,
+                () -> compilador.carregar(compilador.analisar(new StringReader(fonte)), "Teste.252"));
+        assertTrue(e.getMessage().startsWith("Erro semântico na linha " + linha + ":"), e.getMessage());
+        assertTrue(e.getMessage().contains(trecho), e.getMessage());
+    }
+
+    // --- Conversões e operadores ---
+
+    @Test
+    void inteiroPromovidoParaReal() throws Throwable {
+        assertEquals(List.of("3.0", "1.5", "7.5"), executar(
+                "program p\n"
+                + "declarations\n"
+                + "  real r;\n"
+                + "  integer i;\n"
+                + "endDeclarations\n"
+                + "i := 3;\n"
+                + "r := i;\n"
+                + "print(r);\n"
+                + "r := i / 2 + 0.5;\n"
+                + "print(r);\n"
+                + "print(i * 2.5);\n"
+                + "endProgram\n"));
+    }
+
+    @Test
+    void caracterePromovidoParaInteiro() throws Throwable {
+        assertEquals(List.of("A", "66", "65", "65.5"), executar(
+                "program p\n"
+                + "declarations\n"
+                + "  character c;\n"
+                + "  integer i;\n"
+                + "endDeclarations\n"
+                + "c := 'A';\n"
+                + "print(c);\n"
+                + "print(c + 1);\n"
+                + "i := c;\n"
+                + "print(i);\n"
+                + "print(c + 0.5);\n"
+                + "endProgram\n"));
+    }
+
+    @Test
+    void concatenacaoDeTexto() throws Throwable {
+        assertEquals(List.of("caatinga", "x=42", "2.5!", "ok"), executar(
+                "program p\n"
+                + "declarations\n"
+                + "  string s;\n"
+                + "endDeclarations\n"
+                + "s := \"caa\" + \"tinga\";\n"
+                + "print(s);\n"
+                + "print(\"x=\" + 42);\n"
+                + "print(2.5 + \"!\");\n"
+                + "s := \"\";\n"
+                + "print(s + \"ok\");\n"
+                + "endProgram\n"));
+    }
+
+    @Test
+    void relacionaisSobreRealTextoEBooleano() throws Throwable {
+        assertEquals(List.of("truefalsetrue", "truetruefalse", "truefalsetrue"), executar(
+                "program p\n"
+                + "declarations\n"
+                + "  boolean b;\n"
+                + "endDeclarations\n"
+                + "print(0.1 + 0.2 > 0.3, 1.5 <= 1, 2 >= 2.0);\n"
+                + "print(\"abc\" < \"abd\", \"abc\" == \"abc\", \"b\" <= \"a\");\n"
+                + "b := 1 < 2;\n"
+                + "print(b == true, b != true, false # b);\n"
+                + "endProgram\n"));
+    }
+
+    // --- Controle de fluxo ---
+
+    @Test
+    void breakDentroDeIfAninhado() throws Throwable {
+        assertEquals(List.of("0", "1", "2", "fim 3"), executar(
+                "program p\n"
+                + "declarations\n"
+                + "  integer i;\n"
+                + "endDeclarations\n"
+                + "i := 0;\n"
+                + "while i < 10\n"
+                + "  if i > 1\n"
+                + "    if i == 3\n"
+                + "      break;\n"
+                + "    endIf\n"
+                + "  endIf\n"
+                + "  print(i);\n"
+                + "  i := i + 1;\n"
+                + "endWhile\n"
+                + "print(\"fim \", i);\n"
+                + "endProgram\n"));
+    }
+
+    @Test
+    void returnNosDoisRamos() throws Throwable {
+        assertEquals(List.of("-1", "1", "0"), executar(
+                "program p\n"
+                + "functions\n"
+                + "  integer sinal(real x)\n"
+                + "    if x < 0\n"
+                + "      return -1;\n"
+                + "    else\n"
+                + "      if x > 0\n"
+                + "        return 1;\n"
+                + "      else\n"
+                + "        return 0;\n"
+                + "      endIf\n"
+                + "    endIf\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "print(sinal(-2.5));\n"
+                + "print(sinal(3));\n"
+                + "print(sinal(0.0));\n"
+                + "endProgram\n"));
+    }
+
+    // --- Erros semânticos ---
+
+    @Test
+    void variavelNaoDeclarada() {
+        assertErroSemantico(2, "variável 'X' não declarada",
+                "program p\n"
+                + "x := 1;\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void quantidadeErradaDeArgumentos() {
+        assertErroSemantico(7, "espera 2 argumento(s)",
+                "program p\n"
+                + "functions\n"
+                + "  integer soma(integer a, b)\n"
+                + "    return a + b;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "print(soma(1));\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void returnComValorEmFuncaoVoid() {
+        assertErroSemantico(4, "return com valor em função void",
+                "program p\n"
+                + "functions\n"
+                + "  void f()\n"
+                + "    return 1;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void breakForaDeWhile() {
+        assertErroSemantico(3, "break fora de while",
+                "program p\n"
+                + "if 1 < 2\n"
+                + "  break;\n"
+                + "endIf\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void tiposIncompativeisNaAtribuicao() {
+        assertErroSemantico(5, "tipos incompatíveis: STR -> INT",
+                "program p\n"
+                + "declarations\n"
+                + "  integer i;\n"
+                + "endDeclarations\n"
+                + "i := \"1\";\n"
+                + "endProgram\n");
+    }
+}
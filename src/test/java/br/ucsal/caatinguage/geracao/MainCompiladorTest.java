@@ -0,0 +1,91 @@
+package br.ucsal.caatinguage.geracao;
+
+import br.ucsal.caatinguage.sintatico.Ast;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MainCompiladorTest {
+
+    private static final String DIVISAO =
+            "program divisao\n"
+            + "declarations\n"
+            + "  integer zero;\n"
+            + "endDeclarations\n"
+            + "functions\n"
+            + "  integer dividir(integer a, b)\n"
+            + "    return a / b;\n"
+            + "  endFunction\n"
+            + "endFunctions\n"
+            + "print(dividir(4, zero));\n"
+            + "endProgram\n";
+
+    private final MainCompilador compilador = new MainCompilador();
+
+    @Test
+    void erroEmTempoDeExecucaoMostraLinhaDoFonte() throws Exception {
+        Ast.Programa programa = compilador.analisar(new StringReader(DIVISAO));
+        Class<?> classe = compilador.carregar(programa, "divisao.252");
+
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+                () -> compilador.executar(classe, new String[0]));
+        StackTraceElement topo = e.getStackTrace()[0];
+        assertEquals("DIVISAO", topo.getClassName());
+        assertEquals("divisao.252", topo.getFileName());
+        assertEquals(7, topo.getLineNumber());
+    }
+
+    @Test
+    void cadaExecucaoUsaUmCarregadorProprio() throws Exception {
+        Ast.Programa programa = compilador.analisar(new StringReader(DIVISAO));
+        Class<?> primeira = compilador.carregar(programa, "divisao.252");
+        Class<?> segunda = compilador.carregar(programa, "divisao.252");
+        assertNotSame(primeira, segunda);
+    }
+
+    @Test
+    void gravaClasseNoDiretorio() throws Exception {
+        Path diretorio = Files.createTempDirectory("caatinguage");
+        try {
+            Ast.Programa programa = compilador.analisar(new StringReader(DIVISAO));
+            Path destino = compilador.gravar(programa, "divisao.252", diretorio);
+
+            assertEquals(diretorio.resolve("DIVISAO.class"), destino);
+            byte[] bytecode = Files.readAllBytes(destino);
+            assertEquals(0xCAFEBABE, (bytecode[0] & 0xFF) << 24 | (bytecode[1] & 0xFF) << 16
+                    | (bytecode[2] & 0xFF) << 8 | (bytecode[3] & 0xFF));
+        } finally {
+            try (var arquivos = Files.walk(diretorio)) {
+                arquivos.sorted((a, b) -> b.compareTo(a)).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void argumentosInvalidosMostramUso() throws Exception {
+        for (String[] args : new String[][] {
+                {"Teste.252", "-o"},
+                {"Teste.252", "saida"},
+                {"Teste.252", "-x", "saida"},
+                {"Teste.252", "-o", "saida", "extra"}}) {
+            ByteArrayOutputStream erros = new ByteArrayOutputStream();
+            PrintStream original = System.err;
+            System.setErr(new PrintStream(erros, true, StandardCharsets.UTF_8));
+            try {
+                compilador.run(args);
+            } finally {
+                System.setErr(original);
+            }
+            assertTrue(erros.toString(StandardCharsets.UTF_8).startsWith("Uso: MainCompilador"),
+                    Arrays.toString(args));
+        }
+    }
+}
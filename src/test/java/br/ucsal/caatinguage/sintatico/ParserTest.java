@@ -0,0 +1,126 @@
+package br.ucsal.caatinguage.sintatico;
+
+import br.ucsal.caatinguage.lexico.Lexer;
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.SimboloManager;
+import br.ucsal.caatinguage.tabela.SymbolType;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserTest {
+
+    private Ast.Programa analisar(String fonte) throws Exception {
+        try (Lexer lexer = new Lexer(new StringReader(fonte), new SimboloManager())) {
+            return new Parser(lexer).analisarPrograma();
+        }
+    }
+
+    private void assertErroSintatico(int linha, String trecho, String fonte) {
+        Exception e = assertThrows(Exception.class, () -> analisar(fonte));
+        assertTrue(e.getMessage().startsWith("Erro sintático na linha " + linha + ":"), e.getMessage());
+        assertTrue(e.getMessage().contains(trecho), e.getMessage());
+    }
+
+    // --- Estrutura ---
+
+    @Test
+    void declaracoesGlobaisEmLista() throws Exception {
+        Ast.Programa programa = analisar(
+                "program p\n"
+                + "declarations\n"
+                + "  varType integer: a, b;\n"
+                + "  real c;\n"
+                + "endDeclarations\n"
+                + "endProgram\n");
+
+        assertEquals(3, programa.globais().size());
+        assertEquals(SymbolType.INTEGER, programa.globais().get(1).tipo());
+        assertEquals(SymbolType.REAL, programa.globais().get(2).tipo());
+        assertEquals(4, programa.globais().get(2).linha());
+    }
+
+    @Test
+    void parametroSemTipoRepeteOAnterior() throws Exception {
+        Ast.Programa programa = analisar(
+                "program p\n"
+                + "functions\n"
+                + "  funcType real: media(paramType integer: a, b, real c)\n"
+                + "    real soma;\n"
+                + "    soma := a + b + c;\n"
+                + "    return soma / 3;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+
+        Ast.Funcao f = programa.funcoes().get(0);
+        assertEquals(SymbolType.REAL, f.tipoRetorno());
+        assertEquals(SymbolType.INTEGER, f.parametros().get(1).tipo());
+        assertEquals(SymbolType.REAL, f.parametros().get(2).tipo());
+        assertEquals(1, f.locais().size());
+        assertEquals(2, f.corpo().size());
+    }
+
+    @Test
+    void multiplicacaoTemPrecedenciaSobreSoma() throws Exception {
+        Ast.Programa programa = analisar(
+                "program p\n"
+                + "print(1 + 2 * 3 < 10);\n"
+                + "endProgram\n");
+
+        Ast.Imprima imprima = (Ast.Imprima) programa.corpo().get(0);
+        Ast.Binaria comparacao = (Ast.Binaria) imprima.valores().get(0);
+        assertEquals(TokenType.LT, comparacao.operador());
+        Ast.Binaria soma = (Ast.Binaria) comparacao.esquerda();
+        assertEquals(TokenType.PLUS, soma.operador());
+        assertEquals(TokenType.STAR, ((Ast.Binaria) soma.direita()).operador());
+    }
+
+    @Test
+    void literaisVemConvertidosDoLexer() throws Exception {
+        Ast.Programa programa = analisar(
+                "program p\n"
+                + "print(42, 2.5e1, \"ola\", 'x');\n"
+                + "endProgram\n");
+
+        Ast.Imprima imprima = (Ast.Imprima) programa.corpo().get(0);
+        assertEquals(42L, ((Ast.LiteralInteiro) imprima.valores().get(0)).valor());
+        assertEquals(25.0, ((Ast.LiteralReal) imprima.valores().get(1)).valor());
+        assertEquals("ola", ((Ast.LiteralTexto) imprima.valores().get(2)).valor());
+        assertEquals('x', ((Ast.LiteralCaractere) imprima.valores().get(3)).valor());
+    }
+
+    // --- Erros ---
+
+    @Test
+    void declaracaoLocalDepoisDeComando() {
+        assertErroSintatico(6, "declarações locais vêm antes",
+                "program p\n"
+                + "functions\n"
+                + "  void f()\n"
+                + "    integer x;\n"
+                + "    x := 1;\n"
+                + "    integer y;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void literalForaDoIntervalo() {
+        assertErroSintatico(2, "fora do intervalo",
+                "program p\n"
+                + "print(99999999999999999999);\n"
+                + "endProgram\n");
+    }
+
+    @Test
+    void pontoEVirgulaAusente() {
+        assertErroSintatico(3, "SEMICOLON esperado",
+                "program p\n"
+                + "print(1)\n"
+                + "endProgram\n");
+    }
+}
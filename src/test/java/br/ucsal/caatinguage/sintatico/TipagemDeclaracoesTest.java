@@ -0,0 +1,139 @@
+package br.ucsal.caatinguage.sintatico;
+
+import br.ucsal.caatinguage.lexico.Lexer;
+import br.ucsal.caatinguage.lexico.Token;
+import br.ucsal.caatinguage.lexico.TokenType;
+import br.ucsal.caatinguage.tabela.SimboloManager;
+import br.ucsal.caatinguage.tabela.SymbolType;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TipagemDeclaracoesTest {
+
+    private final SimboloManager simbolos = new SimboloManager();
+
+    // Mesma passada do MainStaticChecker: cada token lido é repassado à tipagem
+    private void tipar(String fonte) throws Exception {
+        TipagemDeclaracoes tipagem = new TipagemDeclaracoes(simbolos);
+        try (Lexer lexer = new Lexer(new StringReader(fonte), simbolos)) {
+            Token token;
+            do {
+                token = lexer.proximoToken();
+                tipagem.observar(token);
+            } while (token.getType() != TokenType.EOF);
+        }
+    }
+
+    private SymbolType tipo(String lexema) {
+        return simbolos.buscar(lexema).getTipoSimbolo();
+    }
+
+    @Test
+    void listaDeDeclaracoes() throws Exception {
+        tipar("program p\n"
+                + "declarations\n"
+                + "  varType integer: a, b, c;\n"
+                + "  string s, t;\n"
+                + "endDeclarations\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.INTEGER, tipo("A"));
+        assertEquals(SymbolType.INTEGER, tipo("B"));
+        assertEquals(SymbolType.INTEGER, tipo("C"));
+        assertEquals(SymbolType.STRING, tipo("S"));
+        assertEquals(SymbolType.STRING, tipo("T"));
+        assertEquals(SymbolType.NO_TYPE, tipo("P"));
+    }
+
+    @Test
+    void nomeDaFuncaoEParametros() throws Exception {
+        tipar("program p\n"
+                + "functions\n"
+                + "  funcType real: media(paramType integer: a, b, real c)\n"
+                + "    return (a + b + c) / 3;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.REAL, tipo("MEDIA"));
+        assertEquals(SymbolType.INTEGER, tipo("A"));
+        assertEquals(SymbolType.INTEGER, tipo("B")); // sem tipo: repete o anterior
+        assertEquals(SymbolType.REAL, tipo("C"));
+    }
+
+    @Test
+    void locaisDepoisDeChamadaNoCorpo() throws Exception {
+        // A ordem declarações/comandos é cobrada pelo Parser; aqui só interessa a tipagem
+        tipar("program p\n"
+                + "functions\n"
+                + "  void f(integer n)\n"
+                + "    g(n, x);\n"
+                + "    character k;\n"
+                + "    k := 'a';\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.VOID, tipo("F"));
+        assertEquals(SymbolType.INTEGER, tipo("N"));
+        assertEquals(SymbolType.CHARACTER, tipo("K"));
+        assertEquals(SymbolType.NO_TYPE, tipo("G"));
+        assertEquals(SymbolType.NO_TYPE, tipo("X"));
+    }
+
+    @Test
+    void segundaFuncaoDepoisDeEndFunction() throws Exception {
+        tipar("program p\n"
+                + "functions\n"
+                + "  integer um()\n"
+                + "    return 1;\n"
+                + "  endFunction\n"
+                + "  string dois(boolean flag)\n"
+                + "    real r;\n"
+                + "    return \"2\";\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.INTEGER, tipo("UM"));
+        assertEquals(SymbolType.STRING, tipo("DOIS"));
+        assertEquals(SymbolType.BOOLEAN, tipo("FLAG"));
+        assertEquals(SymbolType.REAL, tipo("R"));
+    }
+
+    @Test
+    void identificadorEntreColchetesNaoETipado() throws Exception {
+        tipar("program p\n"
+                + "declarations\n"
+                + "  integer v[tamanho], w;\n"
+                + "endDeclarations\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.INTEGER, tipo("V"));
+        assertEquals(SymbolType.INTEGER, tipo("W"));
+        assertEquals(SymbolType.NO_TYPE, tipo("TAMANHO"));
+    }
+
+    @Test
+    void primeiraDeclaracaoPrevalece() throws Exception {
+        tipar("program p\n"
+                + "declarations\n"
+                + "  integer x;\n"
+                + "endDeclarations\n"
+                + "functions\n"
+                + "  void f(real x)\n"
+                + "    string y;\n"
+                + "  endFunction\n"
+                + "  void g()\n"
+                + "    boolean y;\n"
+                + "  endFunction\n"
+                + "endFunctions\n"
+                + "endProgram\n");
+
+        assertEquals(SymbolType.INTEGER, tipo("X"));
+        assertEquals(SymbolType.STRING, tipo("Y"));
+    }
+}
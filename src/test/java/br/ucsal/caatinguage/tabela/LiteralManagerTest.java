@@ -0,0 +1,156 @@
+package br.ucsal.caatinguage.tabela;
+
+import br.ucsal.caatinguage.lexico.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiteralManagerTest {
+
+    private final LiteralManager literais = new LiteralManager();
+
+    private LiteralEntry inteiro(String lexema) {
+        return literais.registrar(TokenType.INT_CONST, lexema, 1);
+    }
+
+    private LiteralEntry real(String lexema) {
+        return literais.registrar(TokenType.REAL_CONST, lexema, 1);
+    }
+
+    private void assertReal(double esperado, String lexema) {
+        LiteralEntry e = real(lexema);
+        assertFalse(e.isEstouro(), lexema);
+        assertEquals(esperado, e.getValorReal(), lexema);
+    }
+
+    // --- Inteiros ---
+
+    @Test
+    void inteiroSimples() {
+        LiteralEntry e = inteiro("0042");
+        assertFalse(e.isEstouro());
+        assertEquals(42L, e.getValorInteiro());
+    }
+
+    @Test
+    void inteiroNoLimiteDeLong() {
+        LiteralEntry e = inteiro("9223372036854775807");
+        assertFalse(e.isEstouro());
+        assertEquals(Long.MAX_VALUE, e.getValorInteiro());
+    }
+
+    @Test
+    void inteiroAcimaDeLongEstoura() {
+        assertTrue(inteiro("9223372036854775808").isEstouro());
+        assertTrue(inteiro("99999999999999999999").isEstouro());
+    }
+
+    // --- Reais: expoente vazio aceito pelo Lexer ---
+
+    @Test
+    void expoenteVazioNoCaminhoRapido() {
+        assertReal(1.0, "1.e");
+        assertReal(2.5, "2.5e+");
+        assertReal(2.5, "2.5E-");
+    }
+
+    @Test
+    void expoenteVazioNoCaminhoLento() {
+        assertReal(1e-26, "0.00000000000000000000000001e");
+        assertReal(Double.parseDouble("12345678901234567890.5"), "12345678901234567890.5e");
+    }
+
+    @Test
+    void realAcimaDeDoubleEstoura() {
+        LiteralEntry e = real("1.0e400");
+        assertTrue(e.isEstouro());
+        assertTrue(real("2.0e+999").isEstouro());
+    }
+
+    @Test
+    void realAbaixoDeDoubleViraZero() {
+        LiteralEntry e = real("1.5e-400");
+        assertFalse(e.isEstouro());
+        assertEquals(0.0, e.getValorReal());
+    }
+
+    // --- Reais: limites do caminho rápido (mantissa <= 2^53, |expoente| <= 22) ---
+
+    @Test
+    void mantissaNoLimiteDoCaminhoRapido() {
+        assertReal(9007199254740992.0, "9007199254740992.0");
+        assertReal(Double.parseDouble("9007199254740993.0"), "9007199254740993.0");
+    }
+
+    @Test
+    void expoenteNoLimiteDoCaminhoRapido() {
+        assertReal(1e22, "1.0e22");
+        assertReal(1e23, "1.0e23");
+        assertReal(1e-22, "1.0e-22");
+        assertReal(1e-23, "1.0e-23");
+    }
+
+    @Test
+    void maisDe18DigitosSignificativos() {
+        assertReal(Double.parseDouble("1234567890123456789012.0"), "1234567890123456789012.0");
+        assertReal(Double.parseDouble("0.12345678901234567890123"), "0.12345678901234567890123");
+    }
+
+    // --- Reais: fora do caminho rápido (Eisel-Lemire e conversão exata) ---
+
+    @Test
+    void dezesseteDigitosSignificativos() {
+        assertReal(0.1 + 0.2, "0.30000000000000004");
+        assertReal(Double.MAX_VALUE, "1.7976931348623157e308");
+        assertReal(Double.MIN_NORMAL, "2.2250738585072014e-308");
+        assertReal(Math.PI, "3.141592653589793");
+    }
+
+    @Test
+    void idaEVoltaDeDoublesAleatorios() {
+        Random aleatorio = new Random(252);
+        for (int i = 0; i < 2000; i++) {
+            double d = Double.longBitsToDouble(aleatorio.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+            String lexema = String.format(Locale.ROOT, "%.16e", d);
+            assertReal(Double.parseDouble(lexema), lexema);
+        }
+    }
+
+    @Test
+    void empateExatoArredondaParaPar() {
+        // 2^53 + 1 e 2^53 + 3: meio exato entre dois doubles vizinhos
+        assertReal(9007199254740992.0, "9007199254740993e0");
+        assertReal(9007199254740996.0, "9007199254740995e0");
+        assertReal(Double.parseDouble("9007199254740993.00000000000000000001"),
+                "9007199254740993.00000000000000000001");
+    }
+
+    @Test
+    void subnormais() {
+        assertReal(Double.MIN_VALUE, "4.9406564584124654e-324");
+        assertReal(Double.MIN_VALUE, "3e-324");
+        assertReal(0.0, "2e-324");
+        assertReal(Double.parseDouble("2.2250738585072011e-308"), "2.2250738585072011e-308");
+    }
+
+    @Test
+    void zerosAEsquerdaNaFracao() {
+        assertReal(0.001, "0.001");
+        assertReal(0.0123, "0.000123e2");
+        assertReal(0.0, "0.000e5");
+    }
+
+    // --- Deduplicação ---
+
+    @Test
+    void literalRepetidoReaproveitaEntrada() {
+        LiteralEntry primeiro = real("3.14");
+        LiteralEntry segundo = literais.registrar(TokenType.REAL_CONST, new StringBuilder("3.14"), 2);
+        assertSame(primeiro, segundo);
+        assertEquals(2, segundo.getOcorrencias());
+        assertEquals(1, literais.getEntradas().size());
+    }
+}